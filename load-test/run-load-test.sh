@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+#
+# Builds the payment API and the load test, starts the API locally, runs the load test against it
+# and stops the API again. Results are written to load-test/results/<label>, where the label defaults
+# to the current git revision, so that summary.csv files of different builds can be compared.
+#
+# Usage: load-test/run-load-test.sh [load test options]
+#   e.g. load-test/run-load-test.sh --rate=500 --duration=2m --mix=valid=90,duplicate=10
+#
+# Environment:
+#   PORT        port of the payment API instance (default: 8080)
+#   LABEL       run label of letters, digits, ".", "_" and "-" (default: git revision)
+#   SKIP_BUILD  set to true to reuse previously built jars
+#
+set -euo pipefail
+
+LOAD_TEST_DIR="$(cd "$(dirname "$0")" && pwd)"
+PROJECT_DIR="$(dirname "$LOAD_TEST_DIR")"
+PORT="${PORT:-8080}"
+LABEL="${LABEL:-$(git -C "$PROJECT_DIR" rev-parse --short HEAD 2>/dev/null || echo local)}"
+
+# The label names the results directory and is written unquoted to summary.csv
+if [[ ! "$LABEL" =~ ^[A-Za-z0-9._-]+$ || "$LABEL" == "." || "$LABEL" == ".." ]]; then
+    echo "Invalid LABEL '$LABEL', use letters, digits, '.', '_' and '-' only" >&2
+    exit 2
+fi
+
+RESULTS_DIR="$LOAD_TEST_DIR/results/$LABEL"
+
+if [[ "${SKIP_BUILD:-false}" != "true" ]]; then
+    mvn -B -q -f "$PROJECT_DIR/pom.xml" package -DskipTests
+    mvn -B -q -f "$LOAD_TEST_DIR/pom.xml" package -DskipTests
+fi
+
+if curl -s -o /dev/null "http://localhost:$PORT/"; then
+    echo "Port $PORT is already in use, stop the process using it or set PORT" >&2
+    exit 1
+fi
+
+java -jar "$PROJECT_DIR"/target/payment-api-*.jar --server.port="$PORT" > "$LOAD_TEST_DIR/payment-api.log" 2>&1 &
+API_PID=$!
+trap 'kill "$API_PID" 2>/dev/null || true; wait "$API_PID" 2>/dev/null || true' EXIT
+
+for _ in $(seq 1 60); do
+    if ! kill -0 "$API_PID" 2>/dev/null || curl -s -o /dev/null "http://localhost:$PORT/"; then
+        break
+    fi
+    sleep 1
+done
+
+if ! kill -0 "$API_PID" 2>/dev/null; then
+    echo "Payment API failed to start, see $LOAD_TEST_DIR/payment-api.log" >&2
+    exit 1
+fi
+
+if ! curl -s -o /dev/null "http://localhost:$PORT/"; then
+    echo "Payment API did not start within 60 seconds, see $LOAD_TEST_DIR/payment-api.log" >&2
+    exit 1
+fi
+
+java -jar "$LOAD_TEST_DIR/target/payment-api-load-test.jar" \
+    --target-url="http://localhost:$PORT" \
+    --label="$LABEL" \
+    --output-dir="$RESULTS_DIR" \
+    "$@"
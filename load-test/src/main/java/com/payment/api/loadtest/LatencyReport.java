@@ -0,0 +1,287 @@
+package com.payment.api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Collects response latencies and status codes per scenario and reports HDR latency percentiles and throughput.
+ * Latencies are recorded in microseconds and reported in milliseconds. Timed out requests are recorded with the
+ * time until they timed out, so that they stay in the tail of the distribution. Throughput is the number of
+ * responses divided by the time from the first measured send to the last measured completion, so that it drops
+ * when the server needs longer to drain its backlog. Recording is thread-safe.
+ */
+public class LatencyReport {
+
+    static final String ALL_SCENARIOS = "all";
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+    private static final String SUMMARY_HEADER =
+            "label,scenario,rate,requests,errors,timeouts,unexpected_status,throughput,p50_ms,p90_ms,p99_ms,p99.9_ms,p99.99_ms,max_ms,status_codes";
+
+    private final Map<Scenario, ScenarioStats> scenarioStats = new EnumMap<>(Scenario.class);
+    private final AtomicLong maxSchedulingLagNanos = new AtomicLong();
+    private final AtomicLong firstStartNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastCompletionNanos = new AtomicLong(Long.MIN_VALUE);
+
+    public LatencyReport() {
+        for (var scenario : Scenario.values()) {
+            scenarioStats.put(scenario, new ScenarioStats());
+        }
+    }
+
+    /**
+     * Records a received response. A status code other than the one expected for the scenario is counted as
+     * unexpected, so that a build that takes a different code path is not mistaken for a faster one.
+     *
+     * @param scenario scenario of the request
+     * @param statusCode response status code
+     * @param intendedStartNanos intended send time
+     * @param completionNanos time the response was received
+     */
+    public void recordResponse(Scenario scenario, int statusCode, long intendedStartNanos, long completionNanos) {
+        var stats = scenarioStats.get(scenario);
+        recordLatency(stats, intendedStartNanos, completionNanos);
+        stats.statusCodes.computeIfAbsent(statusCode, key -> new LongAdder()).increment();
+
+        if (statusCode != scenario.getExpectedStatusCode()) {
+            stats.unexpectedStatuses.increment();
+        }
+    }
+
+    /**
+     * Records a request that timed out before a response was received.
+     *
+     * @param scenario scenario of the request
+     * @param intendedStartNanos intended send time
+     * @param completionNanos time the request timed out
+     */
+    public void recordTimeout(Scenario scenario, long intendedStartNanos, long completionNanos) {
+        var stats = scenarioStats.get(scenario);
+        recordLatency(stats, intendedStartNanos, completionNanos);
+        stats.timeouts.increment();
+    }
+
+    private void recordLatency(ScenarioStats stats, long intendedStartNanos, long completionNanos) {
+        stats.histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(completionNanos - intendedStartNanos));
+        firstStartNanos.accumulateAndGet(intendedStartNanos, Math::min);
+        lastCompletionNanos.accumulateAndGet(completionNanos, Math::max);
+    }
+
+    /**
+     * Records a request that failed without a response and without a timeout, e.g. because of a refused connection.
+     *
+     * @param scenario scenario of the request
+     */
+    public void recordError(Scenario scenario) {
+        scenarioStats.get(scenario).errors.increment();
+    }
+
+    /**
+     * Records how late a request was handed over for sending compared to its intended send time.
+     *
+     * @param lagNanos scheduling lag
+     */
+    public void recordSchedulingLag(long lagNanos) {
+        maxSchedulingLagNanos.accumulateAndGet(lagNanos, Math::max);
+    }
+
+    /**
+     * Returns the number of failed requests over all scenarios.
+     *
+     * @return number of errors
+     */
+    public long getErrorCount() {
+        return scenarioStats.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+    }
+
+    /**
+     * Returns the number of recorded responses and timeouts of a scenario.
+     *
+     * @param scenario load test scenario
+     * @return number of recorded requests
+     */
+    long getRequestCount(Scenario scenario) {
+        return scenarioStats.get(scenario).histogram.getTotalCount();
+    }
+
+    /**
+     * Returns the number of timed out requests over all scenarios.
+     *
+     * @return number of timeouts
+     */
+    public long getTimeoutCount() {
+        return scenarioStats.values().stream().mapToLong(stats -> stats.timeouts.sum()).sum();
+    }
+
+    /**
+     * Returns the number of responses with an unexpected status code over all scenarios.
+     *
+     * @return number of unexpected status codes
+     */
+    public long getUnexpectedStatusCount() {
+        return scenarioStats.values().stream().mapToLong(stats -> stats.unexpectedStatuses.sum()).sum();
+    }
+
+    /**
+     * Prints a human-readable summary.
+     *
+     * @param out stream to print to
+     * @param options load test options
+     */
+    public void print(PrintStream out, LoadTestOptions options) {
+        out.printf(Locale.ROOT, "Target %s, rate %d req/s, duration %d ms, warmup %d ms, label %s%n",
+                options.targetUrl(), options.rate(), options.duration().toMillis(), options.warmup().toMillis(),
+                options.label());
+        out.printf(Locale.ROOT, "%-15s %9s %7s %8s %10s %10s %9s %9s %9s %9s %9s %9s  %s%n",
+                "scenario", "requests", "errors", "timeouts", "unexpected", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "p99.99 ms",
+                "max ms", "status codes");
+
+        for (var row : summaryRows()) {
+            out.printf(Locale.ROOT, "%-15s %9d %7d %8d %10d %10.1f %9.3f %9.3f %9.3f %9.3f %9.3f %9.3f  %s%n",
+                    row.scenario(), row.requests(), row.errors(), row.timeouts(), row.unexpectedStatuses(),
+                    row.throughput(),
+                    row.percentiles()[0], row.percentiles()[1], row.percentiles()[2],
+                    row.percentiles()[3], row.percentiles()[4], row.max(), row.statusCodes());
+        }
+
+        out.printf(Locale.ROOT, "Measured window %.3f s, max scheduling lag %.3f ms%n",
+                measuredWindowSeconds(), maxSchedulingLagNanos.get() / 1_000_000.0);
+    }
+
+    /**
+     * Writes summary.csv with one row per scenario and an HDR percentile distribution file per scenario.
+     *
+     * @param outputDir directory to write to
+     * @param options load test options
+     * @throws IOException if the files cannot be written
+     */
+    public void write(Path outputDir, LoadTestOptions options) throws IOException {
+        Files.createDirectories(outputDir);
+
+        try (var out = new PrintStream(Files.newOutputStream(outputDir.resolve("summary.csv")))) {
+            out.println(SUMMARY_HEADER);
+
+            for (var row : summaryRows()) {
+                out.printf(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%s%n",
+                        options.label(), row.scenario(), options.rate(), row.requests(), row.errors(),
+                        row.timeouts(), row.unexpectedStatuses(), row.throughput(), row.percentiles()[0],
+                        row.percentiles()[1], row.percentiles()[2], row.percentiles()[3], row.percentiles()[4],
+                        row.max(), row.statusCodes());
+            }
+        }
+
+        for (var entry : scenarioStats.entrySet()) {
+            writeDistribution(outputDir.resolve(entry.getKey().getOptionName() + ".hgrm"), entry.getValue().histogram);
+        }
+        writeDistribution(outputDir.resolve(ALL_SCENARIOS + ".hgrm"), combinedHistogram());
+    }
+
+    private void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (var out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private Histogram combinedHistogram() {
+        var combined = new Histogram(3);
+        scenarioStats.values().forEach(stats -> combined.add(stats.histogram));
+        return combined;
+    }
+
+    private double measuredWindowSeconds() {
+        var first = firstStartNanos.get();
+        var last = lastCompletionNanos.get();
+        return last > first ? (last - first) / 1_000_000_000.0 : 0.0;
+    }
+
+    private List<SummaryRow> summaryRows() {
+        var windowSeconds = measuredWindowSeconds();
+        var rows = new ArrayList<SummaryRow>();
+        var allStatusCodes = new TreeMap<Integer, Long>();
+
+        for (var entry : scenarioStats.entrySet()) {
+            var stats = entry.getValue();
+            if (stats.histogram.getTotalCount() == 0 && stats.errors.sum() == 0) {
+                continue;
+            }
+
+            var statusCodes = stats.statusCodeCounts();
+            statusCodes.forEach((statusCode, count) -> allStatusCodes.merge(statusCode, count, Long::sum));
+            rows.add(summaryRow(entry.getKey().getOptionName(), stats.histogram, stats.errors.sum(),
+                    stats.timeouts.sum(), stats.unexpectedStatuses.sum(), statusCodes, windowSeconds));
+        }
+
+        rows.add(summaryRow(ALL_SCENARIOS, combinedHistogram(), getErrorCount(), getTimeoutCount(),
+                getUnexpectedStatusCount(), allStatusCodes, windowSeconds));
+        return rows;
+    }
+
+    private static SummaryRow summaryRow(
+            String scenario,
+            Histogram histogram,
+            long errors,
+            long timeouts,
+            long unexpectedStatuses,
+            Map<Integer, Long> statusCodes,
+            double windowSeconds) {
+        var percentiles = new double[PERCENTILES.length];
+        for (var i = 0; i < PERCENTILES.length; i++) {
+            percentiles[i] = histogram.getValueAtPercentile(PERCENTILES[i]) / MICROS_PER_MILLI;
+        }
+
+        var requests = histogram.getTotalCount();
+        var responses = requests - timeouts;
+        var throughput = windowSeconds > 0 ? responses / windowSeconds : 0.0;
+        var formattedStatusCodes = statusCodes.entrySet()
+                .stream()
+                .map(entry -> "%d=%d".formatted(entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining(" "));
+
+        return new SummaryRow(scenario, requests, errors, timeouts, unexpectedStatuses, throughput, percentiles,
+                histogram.getMaxValue() / MICROS_PER_MILLI, formattedStatusCodes);
+    }
+
+    private record SummaryRow(
+            String scenario,
+            long requests,
+            long errors,
+            long timeouts,
+            long unexpectedStatuses,
+            double throughput,
+            double[] percentiles,
+            double max,
+            String statusCodes) {
+    }
+
+    private static class ScenarioStats {
+
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder unexpectedStatuses = new LongAdder();
+
+        private Map<Integer, Long> statusCodeCounts() {
+            var counts = new TreeMap<Integer, Long>();
+            statusCodes.forEach((statusCode, count) -> counts.put(statusCode, count.sum()));
+            return counts;
+        }
+    }
+}
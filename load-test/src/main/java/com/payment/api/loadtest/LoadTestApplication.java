@@ -0,0 +1,34 @@
+package com.payment.api.loadtest;
+
+import java.io.IOException;
+
+/**
+ * Load test entry point. Exits with status 1 if any request failed, timed out or got an unexpected status code
+ * and with status 2 if the arguments are invalid.
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        var report = new OpenLoopLoadGenerator(options).run();
+
+        report.print(System.out, options);
+
+        if (options.outputDir() != null) {
+            report.write(options.outputDir(), options);
+        }
+
+        if (report.getErrorCount() > 0 || report.getTimeoutCount() > 0 || report.getUnexpectedStatusCount() > 0) {
+            System.exit(1);
+        }
+    }
+}
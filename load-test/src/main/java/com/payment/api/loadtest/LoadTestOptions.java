@@ -0,0 +1,169 @@
+package com.payment.api.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents load test options parsed from command line arguments
+ *
+ * @param targetUrl base URL of the payment API instance under test, optionally with a context path
+ * @param rate constant arrival rate in requests per second
+ * @param duration length of the measured phase
+ * @param warmup length of the warmup phase that precedes the measured phase
+ * @param timeout response timeout of a single request
+ * @param mix relative weight of each scenario
+ * @param seed seed of the scenario selection, so that runs send the same sequence of scenarios
+ * @param label label of the run that is written to the summary, e.g. build version
+ * @param outputDir directory where the summary and percentile distributions are written, or null
+ */
+public record LoadTestOptions(
+        URI targetUrl,
+        int rate,
+        Duration duration,
+        Duration warmup,
+        Duration timeout,
+        Map<Scenario, Integer> mix,
+        long seed,
+        String label,
+        Path outputDir) {
+
+    public static final String USAGE = """
+            Usage: java -jar payment-api-load-test.jar [options]
+              --target-url=<url>    http(s) base URL of the payment API, may end with a context path (default: http://localhost:8080)
+              --rate=<n>            requests per second (default: 100)
+              --duration=<time>     measured phase, e.g. 500ms, 30s, 2m (default: 60s)
+              --warmup=<time>       warmup phase, not recorded (default: 10s)
+              --timeout=<time>      response timeout per request (default: 5s)
+              --mix=<weights>       scenario weights (default: valid=70,invalid=10,limit-exceeded=10,duplicate=10)
+              --seed=<n>            seed of the scenario selection (default: 42)
+              --label=<text>        run label written to the summary, without commas (default: local)
+              --output-dir=<path>   directory for summary.csv and *.hgrm files (default: none)
+            """;
+
+    public LoadTestOptions {
+        if (targetUrl.getScheme() == null
+                || !Set.of("http", "https").contains(targetUrl.getScheme().toLowerCase(Locale.ROOT))
+                || targetUrl.getHost() == null) {
+            throw new IllegalArgumentException("target-url must be an http or https URL with a host");
+        }
+        if (targetUrl.getRawQuery() != null || targetUrl.getRawFragment() != null) {
+            throw new IllegalArgumentException("target-url must not contain a query or fragment");
+        }
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("duration must be positive");
+        }
+        if (warmup.isNegative()) {
+            throw new IllegalArgumentException("warmup must not be negative");
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix must contain at least one positive weight");
+        }
+        if (label.isEmpty() || label.chars().anyMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            throw new IllegalArgumentException("label must not be empty or contain commas, quotes or line breaks");
+        }
+        mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+    }
+
+    /**
+     * Parses command line arguments in the "--name=value" form.
+     *
+     * @param args command line arguments
+     * @return parsed options with defaults for omitted arguments
+     */
+    public static LoadTestOptions parse(String... args) {
+        var targetUrl = URI.create("http://localhost:8080");
+        var rate = 100;
+        var duration = Duration.ofSeconds(60);
+        var warmup = Duration.ofSeconds(10);
+        var timeout = Duration.ofSeconds(5);
+        var mix = parseMix("valid=70,invalid=10,limit-exceeded=10,duplicate=10");
+        var seed = 42L;
+        var label = "local";
+        Path outputDir = null;
+
+        for (var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid argument '%s'".formatted(arg));
+            }
+
+            var name = arg.substring(2, arg.indexOf('='));
+            var value = arg.substring(arg.indexOf('=') + 1);
+
+            switch (name) {
+                case "target-url" -> targetUrl = URI.create(value);
+                case "rate" -> rate = Integer.parseInt(value);
+                case "duration" -> duration = parseDuration(value);
+                case "warmup" -> warmup = parseDuration(value);
+                case "timeout" -> timeout = parseDuration(value);
+                case "mix" -> mix = parseMix(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "label" -> label = value;
+                case "output-dir" -> outputDir = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option '--%s'".formatted(name));
+            }
+        }
+
+        return new LoadTestOptions(targetUrl, rate, duration, warmup, timeout, mix, seed, label, outputDir);
+    }
+
+    /**
+     * Parses a duration with a "ms", "s" or "m" unit suffix.
+     *
+     * @param value duration value, e.g. "500ms", "30s" or "2m"
+     * @return parsed duration
+     */
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        throw new IllegalArgumentException("Invalid duration '%s'".formatted(value));
+    }
+
+    /**
+     * Parses scenario weights in the "scenario=weight,..." form. Omitted scenarios get zero weight.
+     *
+     * @param value scenario weights, e.g. "valid=90,duplicate=10"
+     * @return weight of each scenario
+     */
+    static Map<Scenario, Integer> parseMix(String value) {
+        var mix = new EnumMap<Scenario, Integer>(Scenario.class);
+
+        for (var scenario : Scenario.values()) {
+            mix.put(scenario, 0);
+        }
+
+        for (var entry : value.split(",")) {
+            var parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '%s'".formatted(entry));
+            }
+
+            var weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weight must not be negative in '%s'".formatted(entry));
+            }
+
+            mix.put(Scenario.fromOptionName(parts[0].trim()), weight);
+        }
+
+        return mix;
+    }
+}
@@ -0,0 +1,118 @@
+package com.payment.api.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends payment initiation requests at a constant arrival rate, independently of how fast responses arrive.
+ * Every request has an intended send time on a fixed schedule and its latency is measured from that time rather
+ * than from the actual send time, so that a stalled server or client does not hide queueing delay
+ * (coordinated omission).
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final LoadTestOptions options;
+
+    public OpenLoopLoadGenerator(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Runs the warmup and measured phases and waits for all in-flight requests to complete.
+     *
+     * @return report with the responses of the measured phase
+     */
+    public LatencyReport run() {
+        var report = new LatencyReport();
+        var random = new Random(options.seed());
+        var requestFactory = new PaymentRequestFactory(options.targetUrl(), options.timeout());
+        var warmupNanos = options.warmup().toNanos();
+        var totalNanos = warmupNanos + options.duration().toNanos();
+
+        try (var httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout())
+                .build();
+             var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var startNanos = System.nanoTime();
+
+            for (long i = 0; ; i++) {
+                var offsetNanos = (long) (i * NANOS_PER_SECOND / options.rate());
+                if (offsetNanos >= totalNanos) {
+                    break;
+                }
+
+                var intendedStartNanos = startNanos + offsetNanos;
+                var isMeasured = offsetNanos >= warmupNanos;
+                var scenario = selectScenario(random);
+                var request = requestFactory.create(scenario);
+
+                waitUntil(intendedStartNanos);
+
+                if (isMeasured) {
+                    report.recordSchedulingLag(System.nanoTime() - intendedStartNanos);
+                }
+
+                executor.execute(() -> send(httpClient, request, scenario, intendedStartNanos, isMeasured, report));
+            }
+        }
+
+        return report;
+    }
+
+    private void send(
+            HttpClient httpClient,
+            HttpRequest request,
+            Scenario scenario,
+            long intendedStartNanos,
+            boolean isMeasured,
+            LatencyReport report) {
+        try {
+            var response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            var completionNanos = System.nanoTime();
+
+            if (isMeasured) {
+                report.recordResponse(scenario, response.statusCode(), intendedStartNanos, completionNanos);
+            }
+        } catch (HttpTimeoutException e) {
+            if (isMeasured) {
+                report.recordTimeout(scenario, intendedStartNanos, System.nanoTime());
+            }
+        } catch (IOException e) {
+            if (isMeasured) {
+                report.recordError(scenario);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Scenario selectScenario(Random random) {
+        var totalWeight = options.mix().values().stream().mapToInt(Integer::intValue).sum();
+        var value = random.nextInt(totalWeight);
+
+        for (var entry : options.mix().entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+
+        throw new IllegalStateException("Scenario mix is empty");
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remainingNanos;
+        while ((remainingNanos = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remainingNanos);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.payment.api.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Creates payment initiation requests for load test scenarios. Not thread-safe, since requests are
+ * created by the single thread that schedules them.
+ */
+public class PaymentRequestFactory {
+
+    // Copies of com.payment.api.util.Constants, kept in sync by PaymentRequestFactoryTest
+    static final String X_REQUEST_ID_HEADER = "X-Request-Id";
+    static final String INITIATE_PAYMENT_URI = "/v1.0.0/initiate-payment";
+
+    // Digits sum 35 is not divisible by IBAN length 18, so the amount limit is not exceeded
+    static final String VALID_DEBTOR_IBAN = "NL05ABNA1122334455";
+    // Digits sum 0 is divisible by any IBAN length, so a positive amount exceeds the limit
+    static final String LIMIT_EXCEEDING_DEBTOR_IBAN = "NL00ABNA0000000000";
+    static final String CREDITOR_IBAN = "NL05ABNA2233445566";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI initiatePaymentUri;
+    private final Duration timeout;
+
+    private HttpRequest lastValidRequest;
+
+    public PaymentRequestFactory(URI targetUrl, Duration timeout) {
+        // Appends the endpoint to the context path of the target URL instead of replacing it
+        var contextPath = targetUrl.getRawPath().replaceAll("/+$", "");
+        this.initiatePaymentUri = URI.create(
+                targetUrl.getScheme() + "://" + targetUrl.getRawAuthority() + contextPath + INITIATE_PAYMENT_URI);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Creates a request for the given scenario.
+     *
+     * @param scenario load test scenario
+     * @return request to send
+     */
+    public HttpRequest create(Scenario scenario) {
+        return switch (scenario) {
+            case VALID -> lastValidRequest = createRequest(
+                    new PaymentInitiation(VALID_DEBTOR_IBAN, CREDITOR_IBAN, "1.23", "EUR", UUID.randomUUID().toString()));
+            case INVALID -> createRequest(
+                    new PaymentInitiation("NL", CREDITOR_IBAN, ".123", "E", null));
+            case LIMIT_EXCEEDED -> createRequest(
+                    new PaymentInitiation(LIMIT_EXCEEDING_DEBTOR_IBAN, CREDITOR_IBAN, "1.23", "EUR", UUID.randomUUID().toString()));
+            // Resends the latest valid request with the same request id and end-to-end id
+            case DUPLICATE -> lastValidRequest != null ? lastValidRequest : create(Scenario.VALID);
+        };
+    }
+
+    private HttpRequest createRequest(PaymentInitiation paymentInitiation) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(paymentInitiation);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return HttpRequest.newBuilder(initiatePaymentUri)
+                .timeout(timeout)
+                .header(X_REQUEST_ID_HEADER, UUID.randomUUID().toString())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    /**
+     * Represents payment initiation request body
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record PaymentInitiation(
+            String debtorIBAN,
+            String creditorIBAN,
+            String amount,
+            String currency,
+            String endToEndId) {
+    }
+}
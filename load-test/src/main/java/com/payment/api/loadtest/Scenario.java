@@ -0,0 +1,54 @@
+package com.payment.api.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Represents a kind of payment initiation request sent by the load generator and the status code the payment API
+ * is expected to respond with
+ */
+public enum Scenario {
+
+    VALID("valid", 201),
+    INVALID("invalid", 400),
+    LIMIT_EXCEEDED("limit-exceeded", 422),
+    DUPLICATE("duplicate", 201);
+
+    private final String optionName;
+    private final int expectedStatusCode;
+
+    Scenario(String optionName, int expectedStatusCode) {
+        this.optionName = optionName;
+        this.expectedStatusCode = expectedStatusCode;
+    }
+
+    /**
+     * Returns the name used for the scenario in command line options and reports.
+     *
+     * @return scenario option name
+     */
+    public String getOptionName() {
+        return optionName;
+    }
+
+    /**
+     * Returns the status code the payment API is expected to respond with.
+     *
+     * @return expected status code
+     */
+    public int getExpectedStatusCode() {
+        return expectedStatusCode;
+    }
+
+    /**
+     * Finds a scenario by its option name.
+     *
+     * @param optionName scenario option name
+     * @return matching scenario
+     */
+    public static Scenario fromOptionName(String optionName) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.optionName.equals(optionName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario '%s'".formatted(optionName)));
+    }
+}
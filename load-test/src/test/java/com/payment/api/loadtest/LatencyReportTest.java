@@ -0,0 +1,165 @@
+package com.payment.api.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Test class for LatencyReport
+ */
+class LatencyReportTest {
+
+    private final LoadTestOptions options = LoadTestOptions.parse("--rate=1000", "--duration=1s", "--label=build-1");
+
+    @TempDir
+    private Path outputDir;
+
+    @Test
+    void testWriteWithRecordedScenarios() throws IOException {
+        var report = new LatencyReport();
+
+        report.recordResponse(Scenario.VALID, 201, 0, TimeUnit.MILLISECONDS.toNanos(1));
+        report.recordResponse(Scenario.VALID, 201, 0, TimeUnit.MILLISECONDS.toNanos(2));
+        report.recordResponse(Scenario.VALID, 201, 0, TimeUnit.MILLISECONDS.toNanos(3));
+        report.recordResponse(Scenario.LIMIT_EXCEEDED, 422, 0, TimeUnit.MILLISECONDS.toNanos(4));
+        report.recordError(Scenario.INVALID);
+
+        report.write(outputDir, options);
+
+        assertThat(Files.readAllLines(outputDir.resolve("summary.csv")).getFirst()).isEqualTo(
+                "label,scenario,rate,requests,errors,timeouts,unexpected_status,throughput,p50_ms,p90_ms,p99_ms,p99.9_ms,p99.99_ms,max_ms,status_codes");
+
+        var summary = readSummary();
+        assertThat(summary.keySet()).containsExactly("valid", "invalid", "limit-exceeded", "all");
+
+        var valid = summary.get("valid");
+        assertThat(valid.get("label")).isEqualTo("build-1");
+        assertThat(valid.get("requests")).isEqualTo("3");
+        assertThat(valid.get("errors")).isEqualTo("0");
+        assertThat(valid.get("p50_ms")).isEqualTo("2.000");
+        assertThat(valid.get("max_ms")).isEqualTo("3.001");
+        assertThat(valid.get("status_codes")).isEqualTo("201=3");
+
+        var invalid = summary.get("invalid");
+        assertThat(invalid.get("requests")).isEqualTo("0");
+        assertThat(invalid.get("errors")).isEqualTo("1");
+        assertThat(invalid.get("status_codes")).isEmpty();
+
+        var all = summary.get("all");
+        assertThat(all.get("requests")).isEqualTo("4");
+        assertThat(all.get("errors")).isEqualTo("1");
+        assertThat(all.get("unexpected_status")).isEqualTo("0");
+        assertThat(all.get("max_ms")).isEqualTo("4.001");
+        assertThat(all.get("status_codes")).isEqualTo("201=3 422=1");
+
+        for (var name : new String[] {"valid", "invalid", "limit-exceeded", "duplicate", "all"}) {
+            assertThat(outputDir.resolve(name + ".hgrm")).exists();
+        }
+        assertThat(Files.readString(outputDir.resolve("valid.hgrm"))).containsPattern("Total count\\s+=\\s+3]");
+        assertThat(Files.readString(outputDir.resolve("all.hgrm"))).containsPattern("Total count\\s+=\\s+4]");
+    }
+
+    @Test
+    void testWriteWithUnexpectedStatusCodes() throws IOException {
+        var report = new LatencyReport();
+
+        report.recordResponse(Scenario.VALID, 201, 0, TimeUnit.MILLISECONDS.toNanos(1));
+        report.recordResponse(Scenario.VALID, 500, 0, TimeUnit.MILLISECONDS.toNanos(1));
+        report.recordResponse(Scenario.INVALID, 400, 0, TimeUnit.MILLISECONDS.toNanos(1));
+        report.recordResponse(Scenario.LIMIT_EXCEEDED, 201, 0, TimeUnit.MILLISECONDS.toNanos(1));
+        report.recordResponse(Scenario.DUPLICATE, 201, 0, TimeUnit.MILLISECONDS.toNanos(1));
+
+        report.write(outputDir, options);
+
+        var summary = readSummary();
+        assertThat(summary.get("valid").get("unexpected_status")).isEqualTo("1");
+        assertThat(summary.get("invalid").get("unexpected_status")).isEqualTo("0");
+        assertThat(summary.get("limit-exceeded").get("unexpected_status")).isEqualTo("1");
+        assertThat(summary.get("duplicate").get("unexpected_status")).isEqualTo("0");
+        assertThat(summary.get("all").get("unexpected_status")).isEqualTo("2");
+        assertThat(report.getUnexpectedStatusCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testWriteWithTimedOutRequestInTail() throws IOException {
+        var report = new LatencyReport();
+
+        for (var i = 0; i < 999; i++) {
+            report.recordResponse(Scenario.VALID, 201, 0, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        report.recordTimeout(Scenario.VALID, 0, TimeUnit.SECONDS.toNanos(5));
+
+        report.write(outputDir, options);
+
+        var valid = readSummary().get("valid");
+        assertThat(valid.get("requests")).isEqualTo("1000");
+        assertThat(valid.get("timeouts")).isEqualTo("1");
+        assertThat(valid.get("errors")).isEqualTo("0");
+        assertThat(valid.get("status_codes")).isEqualTo("201=999");
+        assertThat(Double.parseDouble(valid.get("p99_ms"))).isLessThan(2.0);
+        assertThat(Double.parseDouble(valid.get("p99.99_ms"))).isGreaterThanOrEqualTo(5000.0);
+        assertThat(Double.parseDouble(valid.get("max_ms"))).isGreaterThanOrEqualTo(5000.0);
+        assertThat(report.getTimeoutCount()).isEqualTo(1);
+        assertThat(report.getErrorCount()).isZero();
+    }
+
+    @Test
+    void testWriteWithThroughputOverMeasuredWindow() throws IOException {
+        var report = new LatencyReport();
+
+        // 100 requests sent over one second, but the server needs four seconds to respond to all of them
+        for (var i = 0; i < 100; i++) {
+            var intendedStartNanos = TimeUnit.MILLISECONDS.toNanos(10L * i);
+            report.recordResponse(Scenario.VALID, 201, intendedStartNanos, intendedStartNanos + TimeUnit.SECONDS.toNanos(3));
+        }
+
+        report.write(outputDir, options);
+
+        var summary = readSummary();
+        assertThat(summary.get("valid").get("rate")).isEqualTo("1000");
+        assertThat(Double.parseDouble(summary.get("valid").get("throughput"))).isCloseTo(25.1, within(0.1));
+        assertThat(Double.parseDouble(summary.get("all").get("throughput"))).isCloseTo(25.1, within(0.1));
+    }
+
+    @Test
+    void testPrintWithSubSecondWarmup() {
+        var report = new LatencyReport();
+        report.recordResponse(Scenario.VALID, 201, 0, TimeUnit.MILLISECONDS.toNanos(1));
+
+        var output = new ByteArrayOutputStream();
+        report.print(new PrintStream(output), LoadTestOptions.parse("--duration=2s", "--warmup=500ms"));
+
+        assertThat(output.toString()).contains("duration 2000 ms, warmup 500 ms");
+    }
+
+    private Map<String, Map<String, String>> readSummary() throws IOException {
+        var lines = Files.readAllLines(outputDir.resolve("summary.csv"));
+        var header = lines.getFirst().split(",");
+        var rows = new LinkedHashMap<String, Map<String, String>>();
+
+        for (var line : lines.subList(1, lines.size())) {
+            var values = line.split(",", -1);
+            assertThat(values).hasSameSizeAs(header);
+
+            var row = new HashMap<String, String>();
+            for (var i = 0; i < header.length; i++) {
+                row.put(header[i], values[i]);
+            }
+            rows.put(row.get("scenario"), row);
+        }
+
+        return rows;
+    }
+}
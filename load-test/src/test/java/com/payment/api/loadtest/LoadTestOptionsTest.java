@@ -0,0 +1,90 @@
+package com.payment.api.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test class for LoadTestOptions
+ */
+class LoadTestOptionsTest {
+
+    @Test
+    void testParseWithoutArguments() {
+        var options = LoadTestOptions.parse();
+
+        assertThat(options.targetUrl()).isEqualTo(URI.create("http://localhost:8080"));
+        assertThat(options.rate()).isEqualTo(100);
+        assertThat(options.duration()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(options.warmup()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(options.timeout()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(options.mix()).isEqualTo(Map.of(
+                Scenario.VALID, 70,
+                Scenario.INVALID, 10,
+                Scenario.LIMIT_EXCEEDED, 10,
+                Scenario.DUPLICATE, 10));
+        assertThat(options.seed()).isEqualTo(42L);
+        assertThat(options.label()).isEqualTo("local");
+        assertThat(options.outputDir()).isNull();
+    }
+
+    @Test
+    void testParseWithAllArguments() {
+        var options = LoadTestOptions.parse(
+                "--target-url=http://localhost:9090",
+                "--rate=500",
+                "--duration=2m",
+                "--warmup=500ms",
+                "--timeout=1s",
+                "--mix=valid=90,duplicate=10",
+                "--seed=7",
+                "--label=1.0.0",
+                "--output-dir=results");
+
+        assertThat(options.targetUrl()).isEqualTo(URI.create("http://localhost:9090"));
+        assertThat(options.rate()).isEqualTo(500);
+        assertThat(options.duration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(options.warmup()).isEqualTo(Duration.ofMillis(500));
+        assertThat(options.timeout()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(options.mix()).isEqualTo(Map.of(
+                Scenario.VALID, 90,
+                Scenario.INVALID, 0,
+                Scenario.LIMIT_EXCEEDED, 0,
+                Scenario.DUPLICATE, 10));
+        assertThat(options.seed()).isEqualTo(7L);
+        assertThat(options.label()).isEqualTo("1.0.0");
+        assertThat(options.outputDir()).isEqualTo(Path.of("results"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "--rate=0",
+            "--duration=0s",
+            "--duration=10",
+            "--mix=valid=0",
+            "--mix=valid=-1,invalid=2",
+            "--mix=unknown=1",
+            "--label=",
+            "--label=build,1",
+            "--label=\"build\"",
+            "--target-url=localhost:18080",
+            "--target-url=ftp://localhost:18080",
+            "--target-url=http:///v1.0.0",
+            "--target-url=/api",
+            "--target-url=http://localhost:18080?debug=true",
+            "--target-url=http://localhost:18080#api",
+            "--target-url=http://local host",
+            "--unknown=1",
+            "rate=100"})
+    void testParseWithInvalidArgument(String argument) {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse(argument));
+    }
+}
@@ -0,0 +1,129 @@
+package com.payment.api.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for OpenLoopLoadGenerator
+ */
+class OpenLoopLoadGeneratorTest {
+
+    private final AtomicInteger receivedRequests = new AtomicInteger();
+
+    private volatile Duration responseDelay = Duration.ZERO;
+    private volatile Integer responseStatusCode;
+    private HttpServer httpServer;
+
+    @BeforeEach
+    void startHttpServer() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext(PaymentRequestFactory.INITIATE_PAYMENT_URI, exchange -> {
+            receivedRequests.incrementAndGet();
+            var body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+            try {
+                Thread.sleep(responseDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            exchange.sendResponseHeaders(responseStatusCode != null ? responseStatusCode : statusCode(body), -1);
+            exchange.close();
+        });
+        httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        httpServer.start();
+    }
+
+    @AfterEach
+    void stopHttpServer() {
+        httpServer.stop(0);
+    }
+
+    @Test
+    void testRunSendsRateTimesDurationRequestsWithoutWarmup() {
+        var report = new OpenLoopLoadGenerator(options("--rate=200", "--duration=1s", "--warmup=200ms",
+                "--mix=valid=3,invalid=1")).run();
+
+        var validRequests = report.getRequestCount(Scenario.VALID);
+        var invalidRequests = report.getRequestCount(Scenario.INVALID);
+
+        assertThat(receivedRequests.get()).isEqualTo(240);
+        assertThat(validRequests + invalidRequests).isEqualTo(200);
+        assertThat(validRequests).isBetween(130L, 170L);
+        assertThat(report.getRequestCount(Scenario.LIMIT_EXCEEDED)).isZero();
+        assertThat(report.getRequestCount(Scenario.DUPLICATE)).isZero();
+        assertThat(report.getErrorCount()).isZero();
+        assertThat(report.getTimeoutCount()).isZero();
+        assertThat(report.getUnexpectedStatusCount()).isZero();
+    }
+
+    @Test
+    void testRunWithSameSeedSelectsSameScenarios() {
+        var firstReport = new OpenLoopLoadGenerator(options("--rate=200", "--duration=500ms", "--warmup=0ms",
+                "--mix=valid=1,invalid=1,limit-exceeded=1,duplicate=1", "--seed=7")).run();
+        var secondReport = new OpenLoopLoadGenerator(options("--rate=200", "--duration=500ms", "--warmup=0ms",
+                "--mix=valid=1,invalid=1,limit-exceeded=1,duplicate=1", "--seed=7")).run();
+
+        for (var scenario : Scenario.values()) {
+            assertThat(firstReport.getRequestCount(scenario))
+                    .isPositive()
+                    .isEqualTo(secondReport.getRequestCount(scenario));
+        }
+        assertThat(firstReport.getUnexpectedStatusCount()).isZero();
+    }
+
+    @Test
+    void testRunRecordsTimedOutRequests() {
+        responseDelay = Duration.ofSeconds(1);
+
+        var report = new OpenLoopLoadGenerator(options("--rate=20", "--duration=500ms", "--warmup=0ms",
+                "--timeout=100ms", "--mix=valid=1")).run();
+
+        assertThat(report.getRequestCount(Scenario.VALID)).isEqualTo(10);
+        assertThat(report.getTimeoutCount()).isEqualTo(10);
+        assertThat(report.getErrorCount()).isZero();
+    }
+
+    @Test
+    void testRunCountsUnexpectedStatusCodes() {
+        responseStatusCode = 500;
+
+        var report = new OpenLoopLoadGenerator(options("--rate=100", "--duration=500ms", "--warmup=0ms",
+                "--mix=valid=1,invalid=1")).run();
+
+        assertThat(report.getRequestCount(Scenario.VALID) + report.getRequestCount(Scenario.INVALID)).isEqualTo(50);
+        assertThat(report.getUnexpectedStatusCount()).isEqualTo(50);
+        assertThat(report.getErrorCount()).isZero();
+        assertThat(report.getTimeoutCount()).isZero();
+    }
+
+    // Responds like the payment API: invalid requests lack the end-to-end id and limit-exceeding ones use a known IBAN
+    private static int statusCode(String body) {
+        if (!body.contains("endToEndId")) {
+            return 400;
+        }
+        if (body.contains(PaymentRequestFactory.LIMIT_EXCEEDING_DEBTOR_IBAN)) {
+            return 422;
+        }
+        return 201;
+    }
+
+    private LoadTestOptions options(String... args) {
+        var targetUrl = "--target-url=http://localhost:%d".formatted(httpServer.getAddress().getPort());
+        var allArgs = new String[args.length + 1];
+        allArgs[0] = targetUrl;
+        System.arraycopy(args, 0, allArgs, 1, args.length);
+        return LoadTestOptions.parse(allArgs);
+    }
+}
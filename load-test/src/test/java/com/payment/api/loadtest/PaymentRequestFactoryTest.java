@@ -0,0 +1,94 @@
+package com.payment.api.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for PaymentRequestFactory
+ */
+class PaymentRequestFactoryTest {
+
+    private final PaymentRequestFactory paymentRequestFactory =
+            new PaymentRequestFactory(URI.create("http://localhost:8080"), Duration.ofSeconds(5));
+
+    @Test
+    void testCreateValidRequest() {
+        var request = paymentRequestFactory.create(Scenario.VALID);
+
+        assertThat(request.uri()).isEqualTo(URI.create("http://localhost:8080/v1.0.0/initiate-payment"));
+        assertThat(request.method()).isEqualTo("POST");
+        assertThat(request.timeout()).contains(Duration.ofSeconds(5));
+        assertThat(request.headers().firstValue(PaymentRequestFactory.X_REQUEST_ID_HEADER)).isPresent();
+        assertThat(request.headers().firstValue("Content-Type")).contains("application/json");
+    }
+
+    @Test
+    void testCreateRequestWithContextPathInTargetUrl() {
+        var requestFactory = new PaymentRequestFactory(URI.create("https://payments.local:8443/api/"), Duration.ofSeconds(5));
+
+        assertThat(requestFactory.create(Scenario.VALID).uri())
+                .isEqualTo(URI.create("https://payments.local:8443/api/v1.0.0/initiate-payment"));
+    }
+
+    @Test
+    void testCreateRequestsHaveUniqueRequestIds() {
+        var firstRequest = paymentRequestFactory.create(Scenario.VALID);
+        var secondRequest = paymentRequestFactory.create(Scenario.LIMIT_EXCEEDED);
+
+        assertThat(requestId(firstRequest)).isNotEqualTo(requestId(secondRequest));
+    }
+
+    @Test
+    void testCreateDuplicateRequestResendsLatestValidRequest() {
+        var validRequest = paymentRequestFactory.create(Scenario.VALID);
+        paymentRequestFactory.create(Scenario.INVALID);
+
+        assertThat(paymentRequestFactory.create(Scenario.DUPLICATE)).isSameAs(validRequest);
+    }
+
+    @Test
+    void testCreateDuplicateRequestWithoutPreviousValidRequest() {
+        var duplicateRequest = paymentRequestFactory.create(Scenario.DUPLICATE);
+
+        assertThat(paymentRequestFactory.create(Scenario.DUPLICATE)).isSameAs(duplicateRequest);
+    }
+
+    @Test
+    void testConstantsMatchPaymentApiConstants() throws IOException {
+        // The load test does not depend on the payment API, so its constants are checked against the API source
+        var paymentApiConstants = Files.readString(Path.of("../src/main/java/com/payment/api/util/Constants.java"));
+
+        assertThat(paymentApiConstants)
+                .contains("X_REQUEST_ID_HEADER = \"%s\";".formatted(PaymentRequestFactory.X_REQUEST_ID_HEADER))
+                .contains("INITIATE_PAYMENT_URI = \"%s\";".formatted(PaymentRequestFactory.INITIATE_PAYMENT_URI));
+    }
+
+    @Test
+    void testDebtorIbansMatchAmountLimitRule() {
+        // The payment API rejects a positive amount if the debtor IBAN digits sum is divisible by the IBAN length
+        var validDebtorIban = PaymentRequestFactory.VALID_DEBTOR_IBAN;
+        var limitExceedingDebtorIban = PaymentRequestFactory.LIMIT_EXCEEDING_DEBTOR_IBAN;
+
+        assertThat(digitsSum(validDebtorIban) % validDebtorIban.length()).isNotZero();
+        assertThat(digitsSum(limitExceedingDebtorIban) % limitExceedingDebtorIban.length()).isZero();
+    }
+
+    private static int digitsSum(String iban) {
+        return iban.chars()
+                .filter(Character::isDigit)
+                .map(Character::getNumericValue)
+                .sum();
+    }
+
+    private static String requestId(HttpRequest request) {
+        return request.headers().firstValue(PaymentRequestFactory.X_REQUEST_ID_HEADER).orElseThrow();
+    }
+}